@@ -0,0 +1,82 @@
+package com.scalyr.s3search.benchmark.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.scalyr.s3search.textsearch.BoyerMooreSearchImpl;
+
+/**
+ * Throughput of the single-pattern BoyerMooreSearchImpl kernels, counting every match in a corpus the way
+ * TextSearcher does. Scores are in bytes of corpus per second. With caseSensitive false, the pattern's letters match
+ * either case; the score should be close to the case-sensitive one.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoyerMooreKernelBenchmark {
+
+    @Param({ "4", "8", "16", "32" })
+    public int patternLength;
+
+    @Param({ "ENGLISH", "RANDOM", "LOW_ENTROPY" })
+    public Corpus corpus;
+
+    @Param({ "true", "false" })
+    public boolean caseSensitive;
+
+    private byte[] text;
+    private BoyerMooreSearchImpl searchImpl;
+
+    @Setup
+    public void setUp() {
+        text = corpus.generate();
+        searchImpl = new BoyerMooreSearchImpl(
+                Corpus.patternFrom(text, patternLength).getBytes(StandardCharsets.UTF_8), caseSensitive);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.CORPUS_BYTES)
+    public int simpleSearch() {
+        int matchCount = 0;
+        int searchPos = 0;
+        while (searchPos < Corpus.CORPUS_BYTES) {
+            int nextMatch = searchImpl.simpleSearch(text, searchPos, Corpus.CORPUS_BYTES - searchPos);
+            if (nextMatch < 0)
+                break;
+            matchCount++;
+            searchPos += nextMatch + 1;
+        }
+        return matchCount;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.CORPUS_BYTES)
+    public int hashedSearch() {
+        int matchCount = 0;
+        int searchPos = 0;
+        while (searchPos < Corpus.CORPUS_BYTES) {
+            int nextMatch = searchImpl.hashedSearch(text, searchPos, Corpus.CORPUS_BYTES - searchPos);
+            if (nextMatch < 0)
+                break;
+            matchCount++;
+            searchPos += nextMatch + 1;
+        }
+        return matchCount;
+    }
+}
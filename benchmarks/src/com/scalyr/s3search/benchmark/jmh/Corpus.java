@@ -0,0 +1,81 @@
+package com.scalyr.s3search.benchmark.jmh;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.scalyr.s3search.FileCreator;
+
+/**
+ * The kinds of text the kernels are benchmarked against. Each corpus is exactly CORPUS_BYTES long, followed by
+ * PADDING_BYTES of spaces so that BoyerMooreSearchImpl.hashedSearch can read past the end of the range it searches.
+ */
+public enum Corpus {
+    /**
+     * English words with power-law frequencies, as written to the simulated S3 epochs by FileCreator.
+     */
+    ENGLISH {
+        @Override
+        String text(Random rng) {
+            List<String> words = FileCreator.readWordList();
+            return FileCreator.buildRandomText(words, CORPUS_BYTES, rng);
+        }
+    },
+
+    /**
+     * Uniformly random lower-case letters and spaces: few partial matches, so skips are long.
+     */
+    RANDOM {
+        @Override
+        String text(Random rng) {
+            char[] text = new char[CORPUS_BYTES];
+            for (int i = 0; i < text.length; i++) {
+                int c = rng.nextInt(27);
+                text[i] = c == 26 ? ' ' : (char) ('a' + c);
+            }
+            return new String(text);
+        }
+    },
+
+    /**
+     * Random runs over a two-letter alphabet: most alignments partially match, which is the worst case for the
+     * Boyer-Moore skip tables.
+     */
+    LOW_ENTROPY {
+        @Override
+        String text(Random rng) {
+            char[] text = new char[CORPUS_BYTES];
+            for (int i = 0; i < text.length; i++)
+                text[i] = rng.nextInt(8) == 0 ? 'b' : 'a';
+            return new String(text);
+        }
+    };
+
+    /**
+     * Length of every corpus. Benchmarks declare it as their operations per invocation, so that JMH reports
+     * throughput in bytes per second.
+     */
+    public static final int CORPUS_BYTES = 1 << 20;
+
+    public static final int PADDING_BYTES = 64;
+
+    abstract String text(Random rng);
+
+    /**
+     * Return the corpus, padded, generated from a fixed seed.
+     */
+    public byte[] generate() {
+        byte[] text = text(new Random(123)).getBytes(StandardCharsets.UTF_8);
+        byte[] padded = Arrays.copyOf(text, CORPUS_BYTES + PADDING_BYTES);
+        Arrays.fill(padded, text.length, padded.length, (byte) ' ');
+        return padded;
+    }
+
+    /**
+     * Return a pattern of the given length taken from the middle of corpus, so that it occurs at least once.
+     */
+    public static String patternFrom(byte[] corpus, int length) {
+        return new String(corpus, CORPUS_BYTES / 2, length, StandardCharsets.UTF_8);
+    }
+}
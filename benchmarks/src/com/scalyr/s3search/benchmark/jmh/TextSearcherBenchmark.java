@@ -0,0 +1,103 @@
+package com.scalyr.s3search.benchmark.jmh;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.scalyr.s3search.textsearch.SearchEngine;
+import com.scalyr.s3search.textsearch.TextSearcher;
+
+/**
+ * TextSearcher end to end: building a searcher, which expands the search string into its variants, and counting
+ * its matches in a corpus with each engine. includeEdits=false searches for one variant; includeEdits=true for the
+ * 27n - 1 variants of an n-byte search string. Counting scores are in bytes of corpus per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextSearcherBenchmark {
+
+    @State(Scope.Thread)
+    public static class Construction {
+        @Param({ "4", "8", "16", "32" })
+        public int patternLength;
+
+        @Param({ "false", "true" })
+        public boolean includeEdits;
+
+        @Param({ "BOYER_MOORE", "AHO_CORASICK", "BIT_PARALLEL" })
+        public SearchEngine engine;
+
+        String searchString;
+        private PrintStream out;
+
+        @Setup
+        public void setUp() {
+            searchString = Corpus.patternFrom(Corpus.ENGLISH.generate(), patternLength);
+            // TextSearcher announces every construction; keep that out of the results.
+            out = System.out;
+            System.setOut(new PrintStream(new OutputStream() {
+                @Override
+                public void write(int b) {
+                }
+            }));
+        }
+
+        @TearDown
+        public void tearDown() {
+            System.setOut(out);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Counting {
+        @Param({ "4", "8", "16", "32" })
+        public int patternLength;
+
+        @Param({ "false", "true" })
+        public boolean includeEdits;
+
+        @Param({ "ENGLISH", "RANDOM", "LOW_ENTROPY" })
+        public Corpus corpus;
+
+        @Param({ "BOYER_MOORE", "BOYER_MOORE_SWAR", "AHO_CORASICK", "BIT_PARALLEL" })
+        public SearchEngine engine;
+
+        byte[] text;
+        TextSearcher searcher;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            text = corpus.generate();
+            searcher = new TextSearcher(Corpus.patternFrom(text, patternLength), includeEdits, engine);
+        }
+    }
+
+    @Benchmark
+    public TextSearcher construct(Construction state) {
+        return new TextSearcher(state.searchString, state.includeEdits, state.engine);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(Corpus.CORPUS_BYTES)
+    public int countMatchesInBlob(Counting state) {
+        return state.searcher.countMatchesInBlob(state.text, 0, Corpus.CORPUS_BYTES);
+    }
+}